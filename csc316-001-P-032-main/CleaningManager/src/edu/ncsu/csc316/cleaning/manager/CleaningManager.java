@@ -2,6 +2,7 @@ package edu.ncsu.csc316.cleaning.manager;
 
 import java.io.FileNotFoundException;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Comparator;
 
 import edu.ncsu.csc316.cleaning.data.CleaningLogEntry;
@@ -10,6 +11,7 @@ import edu.ncsu.csc316.cleaning.dsa.DSAFactory;
 import edu.ncsu.csc316.cleaning.dsa.DataStructure;
 import edu.ncsu.csc316.dsa.list.List;
 import edu.ncsu.csc316.dsa.map.Map;
+import edu.ncsu.csc316.dsa.map.Map.Entry;
 import edu.ncsu.csc316.cleaning.io.InputReader;
 import edu.ncsu.csc316.cleaning.data.RoomRecord;
 
@@ -27,6 +29,18 @@ public class CleaningManager {
 	private CleaningLogEntry[] logs;
 	/** Map of the rooms to cleaning logs */
 	private Map<String, List<CleaningLogEntry>> map;
+	/**
+	 * Index into logs of each room's first entry, parallel to rooms. The logs for
+	 * rooms[i] are logs[logOffsets[i]] up to (not including) logs[logOffsets[i + 1]]
+	 */
+	private int[] logOffsets;
+	/**
+	 * Map of the rooms to a summary of their cleaning logs, or null if the
+	 * manager was not asked to keep one
+	 */
+	private RoomAggregateMap aggregates;
+	/** Whether to keep room aggregates and answer coverage from them */
+	private boolean useAggregates;
 	/** Max square feet vacuum can handle */
 	private static final int MAX_SQUARE_FEET = 5280;
 	/** Custom comparator to organize logs by date, from most recent backwards. */
@@ -37,15 +51,22 @@ public class CleaningManager {
 	public static final LogRoomComparator LOG_ROOM_COMPARATOR = new LogRoomComparator();
 
 	/**
-	 * Constructor with given DS
+	 * Constructor with given DS, optionally keeping room aggregates.
+	 * 
+	 * DataStructure comes from the library jar and cannot be extended, so the
+	 * aggregates are chosen with a flag rather than a new mapType. When they are
+	 * used, getCoverageSince reads them instead of the mapType map.
 	 * 
 	 * @param pathToRoomFile the path to the room file
 	 * @param pathToLogFile  the path to the log file
 	 * @param mapType        the DS to use to implement the Map ADT
+	 * @param useAggregates  true to keep a RoomAggregateMap and answer coverage
+	 *                       from it
 	 * @throws FileNotFoundException if either path is not found
 	 */
-	public CleaningManager(String pathToRoomFile, String pathToLogFile, DataStructure mapType)
-			throws FileNotFoundException {
+	public CleaningManager(String pathToRoomFile, String pathToLogFile, DataStructure mapType,
+			boolean useAggregates) throws FileNotFoundException {
+		this.useAggregates = useAggregates;
 		DSAFactory.setListType(DataStructure.ARRAYBASEDLIST);
 		DSAFactory.setComparisonSorterType(Algorithm.MERGESORT);
 		DSAFactory.setNonComparisonSorterType(Algorithm.QUICKSORT);
@@ -80,6 +101,19 @@ public class CleaningManager {
 
 	}
 
+	/**
+	 * Constructor with given DS
+	 * 
+	 * @param pathToRoomFile the path to the room file
+	 * @param pathToLogFile  the path to the log file
+	 * @param mapType        the DS to use to implement the Map ADT
+	 * @throws FileNotFoundException if either path is not found
+	 */
+	public CleaningManager(String pathToRoomFile, String pathToLogFile, DataStructure mapType)
+			throws FileNotFoundException {
+		this(pathToRoomFile, pathToLogFile, mapType, false);
+	}
+
 	/**
 	 * Constructor with default SkipList DS.
 	 * 
@@ -106,20 +140,94 @@ public class CleaningManager {
 
 		// For each room, for each log, if the log is for this room, add it to this
 		// rooms logs
+		// Remember where each room's logs start so pages can be served without the map
+		logOffsets = new int[rooms.length + 1];
+		aggregates = useAggregates ? new RoomAggregateMap(rooms.length) : null;
 		int i = 0;
+		int r = 0;
 		for (RoomRecord room : rooms) {
+			logOffsets[r++] = i;
 			while (i < logs.length && logs[i].getRoomID().equals(room.getRoomID())) {
 				roomLogs.addLast(logs[i++]);
 			}
 			// Add this rooms logs to the map, then get a new instance of room logs for the next room
 			map.put(room.getRoomID(), roomLogs);
+			if (aggregates != null) {
+				addAggregate(room, logOffsets[r - 1], i);
+			}
 			
 			//Sort the map, 
 			roomLogs = DSAFactory.getIndexedList();
 		}
+		logOffsets[r] = i;
 		return map;
 	}
 
+	/**
+	 * Helper method to summarize one room's logs into the aggregates. Like the
+	 * map, a repeated room ID keeps the summary of its last copy.
+	 * 
+	 * @param room  the room to summarize
+	 * @param start the index of the room's first log
+	 * @param end   the index after the room's last log
+	 */
+	private void addAggregate(RoomRecord room, int start, int end) {
+		int totalArea = 0;
+		for (int i = start; i < end; i++) {
+			totalArea += (room.getLength() * room.getWidth() * logs[i].getPercentCompleted()) / 100;
+		}
+		// Logs are most recent first, so the first one is the latest cleaning
+		long latest = end > start ? logs[start].getTimestamp().toEpochSecond(ZoneOffset.UTC) : Long.MIN_VALUE;
+		aggregates.put(room.getRoomID(), end - start, latest, totalArea, start, end);
+	}
+
+	/**
+	 * Method to get one page of rooms, in order of roomID, with their cleaning log
+	 * entries (most recent first). The page starts at the first room whose ID is
+	 * after the given ID, so the last room ID on a page can be passed back in to
+	 * get the next page. Only the rooms on the page are visited.
+	 * 
+	 * @param afterRoomID the ID of the room before the page, or null to start at
+	 *                    the first room
+	 * @param limit       the maximum number of rooms to include
+	 * @return a list of roomID to cleaning log entry pairs, in order of roomID
+	 */
+	public List<Entry<String, List<CleaningLogEntry>>> getRoomPage(String afterRoomID, int limit) {
+		List<Entry<String, List<CleaningLogEntry>>> page = DSAFactory.getIndexedList();
+		int start = afterRoomID == null ? 0 : indexAfterRoom(afterRoomID);
+
+		for (int r = start; r < rooms.length && page.size() < limit; r++) {
+			List<CleaningLogEntry> roomLogs = DSAFactory.getIndexedList();
+			for (int i = logOffsets[r]; i < logOffsets[r + 1]; i++) {
+				roomLogs.addLast(logs[i]);
+			}
+			page.addLast(new RoomEntry(rooms[r].getRoomID(), roomLogs));
+		}
+		return page;
+	}
+
+	/**
+	 * Helper method to binary search the sorted rooms for the first room whose ID
+	 * is after the given ID.
+	 * 
+	 * @param roomID the ID to search for
+	 * @return the index of the first room after roomID, or the number of rooms if
+	 *         there is none
+	 */
+	private int indexAfterRoom(String roomID) {
+		int low = 0;
+		int high = rooms.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (rooms[mid].getRoomID().compareTo(roomID) <= 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
 	/**
 	 * Method to get the square feet the vacuum has cleaned since the given
 	 * LocalDateTime.
@@ -128,6 +236,9 @@ public class CleaningManager {
 	 * @return and int representing the square feet the vacuum has cleaned
 	 */
 	public int getCoverageSince(LocalDateTime time) {
+		if (aggregates != null) {
+			return getAggregateCoverageSince(time);
+		}
 		int squareFeet = 0;
 		map = getEventsByRoom();
 
@@ -154,6 +265,36 @@ public class CleaningManager {
 		return squareFeet;
 	}
 
+	/**
+	 * Helper method to get the square feet cleaned since the given time, looking
+	 * each room up in the room aggregates instead of the map.
+	 * 
+	 * @param time the earliest LocalDateTime we want to consider
+	 * @return an int representing the square feet the vacuum has cleaned
+	 */
+	private int getAggregateCoverageSince(LocalDateTime time) {
+		int squareFeet = 0;
+		long since = time.toEpochSecond(ZoneOffset.UTC);
+
+		for (RoomRecord room : rooms) {
+			int slot = aggregates.indexOf(room.getRoomID());
+			// Skip rooms with no logs, or whose latest cleaning is before the given time
+			if (aggregates.getCount(slot) == 0 || aggregates.getLatest(slot) < since) {
+				continue;
+			}
+			int end = aggregates.getEventEnd(slot);
+			// Every log is since the given time, so the room's total is the answer
+			if (logs[end - 1].getTimestamp().compareTo(time) >= 0) {
+				squareFeet += aggregates.getTotalArea(slot);
+				continue;
+			}
+			for (int i = aggregates.getEventStart(slot); i < end && logs[i].getTimestamp().compareTo(time) >= 0; i++) {
+				squareFeet += (room.getLength() * room.getWidth() * logs[i].getPercentCompleted()) / 100;
+			}
+		}
+		return squareFeet;
+	}
+
 	/**
 	 * Method to get the square feet the vacuum can clean from now until the bag
 	 * needs to be replaced.
@@ -184,6 +325,46 @@ public class CleaningManager {
 		return rooms;
 	}
 
+	/**
+	 * Pairs a room ID with its cleaning log entries for a page of rooms.
+	 * 
+	 * @author devinmowry (dmmowry)
+	 *
+	 */
+	private static class RoomEntry implements Entry<String, List<CleaningLogEntry>> {
+
+		/** The ID of the room */
+		private String roomID;
+		/** The cleaning log entries of the room */
+		private List<CleaningLogEntry> roomLogs;
+
+		/**
+		 * Constructs a RoomEntry with the given room ID and logs.
+		 * 
+		 * @param roomID   the ID of the room
+		 * @param roomLogs the cleaning log entries of the room
+		 */
+		RoomEntry(String roomID, List<CleaningLogEntry> roomLogs) {
+			this.roomID = roomID;
+			this.roomLogs = roomLogs;
+		}
+
+		@Override
+		public String getKey() {
+			return roomID;
+		}
+
+		@Override
+		public List<CleaningLogEntry> getValue() {
+			return roomLogs;
+		}
+
+		@Override
+		public int compareTo(Entry<String, List<CleaningLogEntry>> o) {
+			return roomID.compareTo(o.getKey());
+		}
+	}
+
 	/**
 	 * Custom comparator for CleaningLogEntry, sorts in descending time.
 	 * 
@@ -28,8 +28,6 @@ public class ReportManager {
 
 	/** Custom comparator to organize logs by date, from most recent backwards. */
 	private static final FrequencyComparator FREQ_COMPARATOR = new FrequencyComparator();
-	/** Custom comparator to organize map naturally by room ID. */
-	private static final NaturalRoomComparator NAT_ROOM_COMPARATOR = new NaturalRoomComparator();
 
 	/**
 	 * Constructs the ReportManager with a given Map data structure.
@@ -129,47 +127,62 @@ public class ReportManager {
 	 * 
 	 * @return a string of the report.
 	 */
-	@SuppressWarnings("unchecked")
 	public String getRoomReport() {
+		// The manager keeps its rooms in order, so there is no need to sort here
+		List<Entry<String, List<CleaningLogEntry>>> rooms = manager.getRoomPage(null, manager.getRooms().length);
 
-		StringBuilder sb = new StringBuilder("Room Report [");
-
-		Map<String, List<CleaningLogEntry>> map = manager.getEventsByRoom();
 		// Flag to make sure at least one room has been cleaned.
 		boolean beenCleaned = false;
-		if (map.size() == 0) {
-			return "No rooms have been cleaned.";
+		for (Entry<String, List<CleaningLogEntry>> room : rooms) {
+			if (room.getValue().size() != 0) {
+				beenCleaned = true;
+				break;
+			}
 		}
 
-		// Sort the map just in case it is unordered
-		// Array of entries to sort
-		Entry<String, List<CleaningLogEntry>>[] arr = new Entry[map.size()];
+		if (beenCleaned) {
+			return roomPageHelper(rooms);
+		}
+		return "No rooms have been cleaned.";
+	}
 
-		// Copy entries into array
-		int idx = 0;
-		for (Entry<String, List<CleaningLogEntry>> ent : map.entrySet()) {
-			arr[idx++] = ent;
+	/**
+	 * Reports one page of rooms and when they have been cleaned, starting at the
+	 * first room whose ID is after the given ID. The last room ID on a page can be
+	 * passed back in to get the next page.
+	 * 
+	 * @param afterRoomID the ID of the room before the page, or null to start at
+	 *                    the first room
+	 * @param number      of rooms user wants to include in the report
+	 * @return a string of the report.
+	 */
+	public String getRoomReport(String afterRoomID, int number) {
+		if (number <= 0) {
+			return "Number of rooms must be greater than 0.";
+		}
+		List<Entry<String, List<CleaningLogEntry>>> rooms = manager.getRoomPage(afterRoomID, number);
+		if (rooms.size() == 0) {
+			return "No more rooms to report.";
 		}
+		return roomPageHelper(rooms);
+	}
 
-		DSAFactory.getComparisonSorter(NAT_ROOM_COMPARATOR).sort(arr);
+	/**
+	 * Helper method to format a page of rooms and their logs.
+	 * 
+	 * @param rooms the roomID to log pairs to report, in order of roomID
+	 * @return a formatted string of the rooms
+	 */
+	private String roomPageHelper(List<Entry<String, List<CleaningLogEntry>>> rooms) {
+		StringBuilder sb = new StringBuilder("Room Report [");
 
 		// Iterate over each of the rooms and print the logs.
-//		for (String roomId : map) {
-		for(int i = 0; i < arr.length; i++) {
-			List<CleaningLogEntry> roomLogs = arr[i].getValue();
-			sb.append("\n   " + arr[i].getKey() + " was cleaned on [\n");
-			String nextRoom = roomReportHelper(roomLogs);
-			if (!nextRoom.equals("      (never cleaned)\n   ]")) {
-				beenCleaned = true;
-			}
-			sb.append(nextRoom);
+		for (Entry<String, List<CleaningLogEntry>> room : rooms) {
+			sb.append("\n   " + room.getKey() + " was cleaned on [\n");
+			sb.append(roomReportHelper(room.getValue()));
 		}
 		sb.append("\n]");
-
-		if (beenCleaned) {
-			return sb.toString();
-		}
-		return "No rooms have been cleaned.";
+		return sb.toString();
 	}
 
 	/**
@@ -213,20 +226,4 @@ public class ReportManager {
 			return e1.getKey().compareTo(e2.getKey());
 		}
 	}
-
-	/**
-	 * Custom comparator that sorts by size of the list of entries associates with
-	 * this each room
-	 * 
-	 * @author devinmowry (dmmowry)
-	 *
-	 */
-	private static class NaturalRoomComparator implements Comparator<Entry<String, List<CleaningLogEntry>>> {
-
-		@Override
-		public int compare(Entry<String, List<CleaningLogEntry>> e1, Entry<String, List<CleaningLogEntry>> e2) {
-			return e1.getKey().compareTo(e2.getKey());
-		}
-
-	}
 }
\ No newline at end of file
@@ -0,0 +1,216 @@
+package edu.ncsu.csc316.cleaning.manager;
+
+/**
+ * Map of room IDs to a summary of their cleaning logs: how many there are, the
+ * latest one, the total square feet cleaned, and the range [start, end) of the
+ * room's logs in the room-sorted log array. Uses open addressing with linear
+ * probing, and keeps each field in its own primitive array so a lookup touches
+ * only a few arrays instead of a chain of boxed entries.
+ *
+ * @author devinmowry
+ *
+ */
+class RoomAggregateMap {
+
+	/** Value returned for rooms that are not in the map */
+	static final int NOT_FOUND = -1;
+	/** Smallest number of slots in the table */
+	private static final int MIN_CAPACITY = 16;
+
+	/** Room IDs, or null if the slot is empty */
+	private String[] keys;
+	/** Cached hash codes of the room IDs */
+	private int[] hashes;
+	/** Number of times each room has been cleaned */
+	private int[] counts;
+	/** Most recent cleaning of each room, in epoch seconds */
+	private long[] latest;
+	/** Total square feet cleaned in each room */
+	private int[] totalArea;
+	/** Index of each room's first log */
+	private int[] eventStart;
+	/** Index after each room's last log */
+	private int[] eventEnd;
+	/** Number of rooms in the map */
+	private int size;
+
+	/**
+	 * Constructs an empty map sized to hold the given number of rooms without
+	 * resizing.
+	 *
+	 * @param expectedRooms the number of rooms that will be added
+	 */
+	RoomAggregateMap(int expectedRooms) {
+		// Keep the table at most half full so probe runs stay short
+		int capacity = MIN_CAPACITY;
+		while (capacity < expectedRooms * 2) {
+			capacity <<= 1;
+		}
+		createTable(capacity);
+	}
+
+	/**
+	 * Adds a room to the map, replacing any summary already stored for it.
+	 *
+	 * @param roomID     the ID of the room
+	 * @param count      the number of times the room has been cleaned
+	 * @param latest     the most recent cleaning, in epoch seconds
+	 * @param totalArea  the total square feet cleaned in the room
+	 * @param eventStart the index of the room's first log
+	 * @param eventEnd   the index after the room's last log
+	 */
+	void put(String roomID, int count, long latest, int totalArea, int eventStart, int eventEnd) {
+		if ((size + 1) * 2 > keys.length) {
+			resize(keys.length << 1);
+		}
+		int hash = hash(roomID);
+		int slot = findSlot(roomID, hash);
+		if (keys[slot] == null) {
+			keys[slot] = roomID;
+			hashes[slot] = hash;
+			size++;
+		}
+		this.counts[slot] = count;
+		this.latest[slot] = latest;
+		this.totalArea[slot] = totalArea;
+		this.eventStart[slot] = eventStart;
+		this.eventEnd[slot] = eventEnd;
+	}
+
+	/**
+	 * Finds the slot holding the given room, which can be passed to the other
+	 * getters.
+	 *
+	 * @param roomID the ID of the room
+	 * @return the slot of the room, or NOT_FOUND if it is not in the map
+	 */
+	int indexOf(String roomID) {
+		int slot = findSlot(roomID, hash(roomID));
+		return keys[slot] == null ? NOT_FOUND : slot;
+	}
+
+	/**
+	 * Getter for the number of times the room in the given slot has been cleaned.
+	 *
+	 * @param slot the slot of the room
+	 * @return the number of times the room has been cleaned
+	 */
+	int getCount(int slot) {
+		return counts[slot];
+	}
+
+	/**
+	 * Getter for the most recent cleaning of the room in the given slot.
+	 *
+	 * @param slot the slot of the room
+	 * @return the most recent cleaning, in epoch seconds
+	 */
+	long getLatest(int slot) {
+		return latest[slot];
+	}
+
+	/**
+	 * Getter for the total square feet cleaned in the room in the given slot.
+	 *
+	 * @param slot the slot of the room
+	 * @return the total square feet cleaned
+	 */
+	int getTotalArea(int slot) {
+		return totalArea[slot];
+	}
+
+	/**
+	 * Getter for the index of the first log of the room in the given slot.
+	 *
+	 * @param slot the slot of the room
+	 * @return the index of the room's first log
+	 */
+	int getEventStart(int slot) {
+		return eventStart[slot];
+	}
+
+	/**
+	 * Getter for the index after the last log of the room in the given slot.
+	 *
+	 * @param slot the slot of the room
+	 * @return the index after the room's last log
+	 */
+	int getEventEnd(int slot) {
+		return eventEnd[slot];
+	}
+
+	/**
+	 * Helper method to probe for the slot holding the given room, or the empty
+	 * slot where it belongs.
+	 *
+	 * @param roomID the ID of the room
+	 * @param hash   the hash of the room ID
+	 * @return the slot for the room
+	 */
+	private int findSlot(String roomID, int hash) {
+		int mask = keys.length - 1;
+		int slot = hash & mask;
+		// Compare cached hashes first so most mismatches skip the String compare
+		while (keys[slot] != null && (hashes[slot] != hash || !keys[slot].equals(roomID))) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Helper method to spread the bits of a String hash code, since the table
+	 * only uses the low bits.
+	 *
+	 * @param roomID the ID of the room
+	 * @return the spread hash
+	 */
+	private static int hash(String roomID) {
+		int h = roomID.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Helper method to allocate empty arrays with the given number of slots.
+	 *
+	 * @param capacity the number of slots, a power of two
+	 */
+	private void createTable(int capacity) {
+		keys = new String[capacity];
+		hashes = new int[capacity];
+		counts = new int[capacity];
+		latest = new long[capacity];
+		totalArea = new int[capacity];
+		eventStart = new int[capacity];
+		eventEnd = new int[capacity];
+	}
+
+	/**
+	 * Helper method to move every room into a table with the given number of
+	 * slots.
+	 *
+	 * @param capacity the new number of slots, a power of two
+	 */
+	private void resize(int capacity) {
+		String[] oldKeys = keys;
+		int[] oldHashes = hashes;
+		int[] oldCounts = counts;
+		long[] oldLatest = latest;
+		int[] oldTotalArea = totalArea;
+		int[] oldStart = eventStart;
+		int[] oldEnd = eventEnd;
+		createTable(capacity);
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != null) {
+				int slot = findSlot(oldKeys[i], oldHashes[i]);
+				keys[slot] = oldKeys[i];
+				hashes[slot] = oldHashes[i];
+				counts[slot] = oldCounts[i];
+				latest[slot] = oldLatest[i];
+				totalArea[slot] = oldTotalArea[i];
+				eventStart[slot] = oldStart[i];
+				eventEnd[slot] = oldEnd[i];
+			}
+		}
+	}
+}
@@ -12,6 +12,7 @@ import edu.ncsu.csc316.cleaning.data.CleaningLogEntry;
 import edu.ncsu.csc316.cleaning.dsa.DataStructure;
 import edu.ncsu.csc316.dsa.list.List;
 import edu.ncsu.csc316.dsa.map.Map;
+import edu.ncsu.csc316.dsa.map.Map.Entry;
 
 public class CleaningManagerTest {
 
@@ -72,4 +73,95 @@ public class CleaningManagerTest {
 
 	}
 
+	/**
+	 * Tests the getRoomPage functionality.
+	 */
+	@Test
+	public void testGetRoomPage() {
+		List<Entry<String, List<CleaningLogEntry>>> page = cm.getRoomPage(null, 2);
+		assertEquals(page.size(), 2);
+		assertEquals(page.get(0).getKey(), "Dining Room");
+		assertEquals(page.get(0).getValue().size(), 3);
+		assertEquals(page.get(1).getKey(), "Foyer");
+		assertEquals(page.get(1).getValue().first().getPercentCompleted(), 93);
+
+		// Start after the last room of the first page
+		page = cm.getRoomPage(page.get(1).getKey(), 1);
+		assertEquals(page.size(), 1);
+		assertEquals(page.get(0).getKey(), "Guest Bathroom");
+
+		// Start after an existing room
+		page = cm.getRoomPage("Guest Bathroom", 3);
+		assertEquals(page.size(), 3);
+		assertEquals(page.get(0).getKey(), "Guest Bedroom");
+		assertEquals(page.get(0).getValue().first().getPercentCompleted(), 100);
+		assertEquals(page.get(1).getKey(), "Kitchen");
+		assertEquals(page.get(1).getValue().size(), 0);
+		assertEquals(page.get(2).getKey(), "Living Room");
+		assertEquals(page.get(2).getValue().size(), 5);
+
+		// Start between rooms, and ask for more than are left
+		page = cm.getRoomPage("Lz", 10);
+		assertEquals(page.size(), 1);
+		assertEquals(page.get(0).getKey(), "Office");
+		assertEquals(page.get(0).getValue().first().getPercentCompleted(), 51);
+
+		assertEquals(cm.getRoomPage("Office", 10).size(), 0);
+		assertEquals(cm.getRoomPage("Zzz", 10).size(), 0);
+		assertEquals(cm.getRoomPage(null, 0).size(), 0);
+	}
+
+	/**
+	 * Tests getCoverageSince and getRoomPage when the manager keeps room
+	 * aggregates.
+	 */
+	@Test
+	public void testAggregates() {
+		try {
+			cm = new CleaningManager(roomPath, logPath, DataStructure.UNORDEREDLINKEDMAP, true);
+		} catch (FileNotFoundException e) {
+			fail("Should not have thrown exception");
+		}
+
+		assertEquals(cm.getCoverageSince(LocalDateTime.of(2022, 1, 1, 0, 0, 0)), 0);
+		assertEquals(cm.getCoverageSince(LocalDateTime.of(2021, 6, 4, 11, 37, 59)), 85);
+		assertEquals(cm.getCoverageSince(LocalDateTime.of(2021, 6, 3, 19, 21, 22)), 357);
+		assertEquals(cm.getCoverageSince(LocalDateTime.of(2021, 5, 1, 10, 0, 0)), 5279);
+		// Part way through a second should not count that second's cleaning
+		assertEquals(cm.getCoverageSince(LocalDateTime.of(2021, 6, 4, 11, 37, 59, 1)), 0);
+
+		List<Entry<String, List<CleaningLogEntry>>> page = cm.getRoomPage("Guest Bedroom", 2);
+		assertEquals(page.size(), 2);
+		assertEquals(page.get(0).getKey(), "Kitchen");
+		assertEquals(page.get(1).getKey(), "Living Room");
+		assertEquals(page.get(1).getValue().size(), 5);
+		assertEquals(cm.getRoomPage("Lz", 10).get(0).getKey(), "Office");
+		assertEquals(cm.getRoomPage("Office", 10).size(), 0);
+	}
+
+	/**
+	 * Tests that getCoverageSince agrees with and without aggregates when the room
+	 * file repeats a room ID.
+	 */
+	@Test
+	public void testAggregatesRepeatedRooms() {
+		CleaningManager withMap = null;
+		CleaningManager withAggregates = null;
+		try {
+			withMap = new CleaningManager("input/duplicate_rooms.txt", logPath, DataStructure.SKIPLIST);
+			withAggregates = new CleaningManager("input/duplicate_rooms.txt", logPath, DataStructure.SKIPLIST, true);
+		} catch (FileNotFoundException e) {
+			fail("Should not have thrown exception");
+		}
+
+		LocalDateTime[] times = { LocalDateTime.of(2022, 1, 1, 0, 0, 0), LocalDateTime.of(2021, 6, 4, 11, 37, 59),
+				LocalDateTime.of(2021, 6, 3, 19, 21, 22), LocalDateTime.of(2021, 5, 20, 0, 0, 0),
+				LocalDateTime.of(2021, 5, 1, 10, 0, 0) };
+		for (LocalDateTime time : times) {
+			assertEquals(withMap.getCoverageSince(time), withAggregates.getCoverageSince(time));
+		}
+		// The last copy of a repeated room has no logs, so Office and Living Room add nothing
+		assertEquals(withAggregates.getCoverageSince(LocalDateTime.of(2021, 6, 4, 11, 37, 59)), 0);
+	}
+
 }
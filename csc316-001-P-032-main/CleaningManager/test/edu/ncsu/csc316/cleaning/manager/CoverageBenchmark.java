@@ -0,0 +1,199 @@
+package edu.ncsu.csc316.cleaning.manager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import edu.ncsu.csc316.cleaning.data.CleaningLogEntry;
+import edu.ncsu.csc316.cleaning.dsa.DSAFactory;
+import edu.ncsu.csc316.cleaning.dsa.DataStructure;
+import edu.ncsu.csc316.dsa.list.List;
+import edu.ncsu.csc316.dsa.map.Map;
+
+/**
+ * Benchmark of RoomAggregateMap against each map DataStructure on the two
+ * operations getEventsByRoom and getCoverageSince use: building the map with
+ * one put per room, and looking every room up by ID. The same generated keys
+ * and logs are used for every map, and nothing is read from files. Not a unit
+ * test; run the main method with the src, test and lib jars on the classpath:
+ *
+ * java edu.ncsu.csc316.cleaning.manager.CoverageBenchmark [rooms] [eventsPerRoom]
+ *
+ * @author devinmowry
+ *
+ */
+public class CoverageBenchmark {
+
+	/** Map types to compare against */
+	private static final DataStructure[] MAP_TYPES = { DataStructure.SKIPLIST, DataStructure.UNORDEREDLINKEDMAP,
+			DataStructure.SEARCHTABLE, DataStructure.BINARYSEARCHTREE, DataStructure.AVLTREE,
+			DataStructure.SPLAYTREE, DataStructure.REDBLACKTREE, DataStructure.SEPARATECHAININGHASHMAP,
+			DataStructure.LINEARPROBINGHASHMAP };
+	/**
+	 * Stack size for the benchmark thread. BINARYSEARCHTREE is unbalanced, so
+	 * sorted puts make it as deep as there are rooms and its recursive lookup
+	 * needs a large stack
+	 */
+	private static final long STACK_SIZE = 1L << 29;
+	/** Number of times each measurement is repeated, keeping the best */
+	private static final int REPS = 5;
+
+	/** Room IDs, in sorted order like getEventsByRoom puts them */
+	private static String[] roomIDs;
+	/** Room IDs in a scattered order for lookups */
+	private static String[] lookupIDs;
+	/** Cleaning logs of each room, the value the Map ADT stores */
+	private static List<CleaningLogEntry>[] roomLogs;
+	/** Number of times each room has been cleaned */
+	private static int[] counts;
+	/** Most recent cleaning of each room, in epoch seconds */
+	private static long[] latest;
+	/** Total square feet cleaned in each room */
+	private static int[] totalArea;
+
+	/**
+	 * Runs the benchmark on a thread with a large stack.
+	 *
+	 * @param args optional number of rooms and events per room
+	 * @throws InterruptedException if interrupted while waiting for the benchmark
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		Thread bench = new Thread(null, () -> benchmark(args), "benchmark", STACK_SIZE);
+		bench.start();
+		bench.join();
+	}
+
+	/**
+	 * Generates the rooms and logs, then prints the best build and lookup times
+	 * for each map.
+	 *
+	 * @param args optional number of rooms and events per room
+	 */
+	private static void benchmark(String[] args) {
+		int roomCount = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+		int eventsPerRoom = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+		DSAFactory.setListType(DataStructure.ARRAYBASEDLIST);
+		generate(roomCount, eventsPerRoom);
+
+		System.out.println(roomCount + " rooms, " + eventsPerRoom + " events per room, best of " + REPS
+				+ " (ms for " + roomCount + " puts / " + roomCount + " lookups)");
+		// The first pass only warms up the JIT
+		for (int pass = 0; pass < 2; pass++) {
+			for (DataStructure mapType : MAP_TYPES) {
+				runMap(mapType, pass == 1);
+			}
+			runAggregates(pass == 1);
+		}
+	}
+
+	/**
+	 * Helper method to time building and looking up a map of the given type.
+	 *
+	 * @param mapType the map DataStructure
+	 * @param print   whether to print the results
+	 */
+	private static void runMap(DataStructure mapType, boolean print) {
+		DSAFactory.setMapType(mapType);
+		long bestBuild = Long.MAX_VALUE;
+		long bestLookup = Long.MAX_VALUE;
+		long checksum = 0;
+		for (int rep = 0; rep < REPS; rep++) {
+			long start = System.nanoTime();
+			Map<String, List<CleaningLogEntry>> map = DSAFactory.getMap(null);
+			for (int r = 0; r < roomIDs.length; r++) {
+				map.put(roomIDs[r], roomLogs[r]);
+			}
+			long built = System.nanoTime();
+			checksum = 0;
+			for (String roomID : lookupIDs) {
+				checksum += map.get(roomID).size();
+			}
+			long done = System.nanoTime();
+			bestBuild = Math.min(bestBuild, built - start);
+			bestLookup = Math.min(bestLookup, done - built);
+		}
+		print(mapType.toString(), bestBuild, bestLookup, checksum, print);
+	}
+
+	/**
+	 * Helper method to time building and looking up a RoomAggregateMap.
+	 *
+	 * @param print whether to print the results
+	 */
+	private static void runAggregates(boolean print) {
+		long bestBuild = Long.MAX_VALUE;
+		long bestLookup = Long.MAX_VALUE;
+		long checksum = 0;
+		for (int rep = 0; rep < REPS; rep++) {
+			long start = System.nanoTime();
+			RoomAggregateMap aggregates = new RoomAggregateMap(roomIDs.length);
+			int offset = 0;
+			for (int r = 0; r < roomIDs.length; r++) {
+				aggregates.put(roomIDs[r], counts[r], latest[r], totalArea[r], offset, offset + counts[r]);
+				offset += counts[r];
+			}
+			long built = System.nanoTime();
+			checksum = 0;
+			for (String roomID : lookupIDs) {
+				checksum += aggregates.getCount(aggregates.indexOf(roomID));
+			}
+			long done = System.nanoTime();
+			bestBuild = Math.min(bestBuild, built - start);
+			bestLookup = Math.min(bestLookup, done - built);
+		}
+		print("RoomAggregateMap", bestBuild, bestLookup, checksum, print);
+	}
+
+	/**
+	 * Helper method to print one row of results.
+	 *
+	 * @param name     the name of the map
+	 * @param build    the best build time in nanoseconds
+	 * @param lookup   the best lookup time in nanoseconds
+	 * @param checksum the total log count found by the lookups
+	 * @param print    whether to print the row
+	 */
+	private static void print(String name, long build, long lookup, long checksum, boolean print) {
+		if (print) {
+			System.out.printf("%-24s build %10.2f   lookup %10.2f   (checksum %d)%n", name, build / 1e6,
+					lookup / 1e6, checksum);
+		}
+	}
+
+	/**
+	 * Helper method to generate rooms, their logs and their summaries.
+	 *
+	 * @param roomCount     the number of rooms
+	 * @param eventsPerRoom the most events a room can have
+	 */
+	@SuppressWarnings("unchecked")
+	private static void generate(int roomCount, int eventsPerRoom) {
+		roomIDs = new String[roomCount];
+		lookupIDs = new String[roomCount];
+		roomLogs = new List[roomCount];
+		counts = new int[roomCount];
+		latest = new long[roomCount];
+		totalArea = new int[roomCount];
+		LocalDateTime base = LocalDateTime.of(2021, 1, 1, 0, 0, 0);
+
+		for (int r = 0; r < roomCount; r++) {
+			roomIDs[r] = String.format("Room %07d", r);
+			roomLogs[r] = DSAFactory.getIndexedList();
+			// Vary the number of events so some rooms are never cleaned
+			counts[r] = r % (eventsPerRoom + 1);
+			int area = (5 + r % 20) * (5 + r % 13);
+			for (int e = 0; e < counts[r]; e++) {
+				// Most recent first, like the sorted logs
+				LocalDateTime time = base.plusMinutes(r * 7919L % 262800 + (counts[r] - e) * 1440L);
+				int percent = 1 + (r + e) % 100;
+				roomLogs[r].addLast(new CleaningLogEntry(time, roomIDs[r], percent));
+				totalArea[r] += area * percent / 100;
+			}
+			latest[r] = counts[r] == 0 ? Long.MIN_VALUE
+					: roomLogs[r].first().getTimestamp().toEpochSecond(ZoneOffset.UTC);
+		}
+		// Visit every room once, in an order that jumps around the key space
+		for (int i = 0; i < roomCount; i++) {
+			lookupIDs[i] = roomIDs[(int) ((i * 7919L) % roomCount)];
+		}
+	}
+}
@@ -77,6 +77,31 @@ public class ReportManagerTest {
 
 	}
 
+	@Test
+	public void testGetRoomReportPage() {
+
+		assertEquals(rm.getRoomReport("Dining Room", 0), "Number of rooms must be greater than 0.");
+
+		assertEquals(rm.getRoomReport(null, 2),
+				"Room Report [\n" + "   Dining Room was cleaned on [\n" + "      05/31/2021 09:27:45\n"
+						+ "      05/23/2021 18:22:11\n" + "      05/21/2021 09:16:33\n" + "   ]\n"
+						+ "   Foyer was cleaned on [\n" + "      05/01/2021 10:03:11\n" + "   ]\n" + "]");
+
+		assertEquals(rm.getRoomReport("Guest Bedroom", 10),
+				"Room Report [\n" + "   Kitchen was cleaned on [\n" + "      (never cleaned)\n" + "   ]\n"
+						+ "   Living Room was cleaned on [\n" + "      05/30/2021 10:14:41\n"
+						+ "      05/28/2021 17:22:52\n" + "      05/12/2021 18:59:12\n" + "      05/11/2021 19:00:12\n"
+						+ "      05/09/2021 18:44:23\n" + "   ]\n" + "   Office was cleaned on [\n"
+						+ "      06/04/2021 11:37:59\n" + "      06/01/2021 13:39:01\n" + "   ]\n" + "]");
+
+		// A page of only never cleaned rooms is still reported
+		assertEquals(rm.getRoomReport("Guest Bedroom", 1),
+				"Room Report [\n" + "   Kitchen was cleaned on [\n" + "      (never cleaned)\n" + "   ]\n" + "]");
+
+		assertEquals(rm.getRoomReport("Office", 1), "No more rooms to report.");
+		assertEquals(rm.getRoomReport("Zzz", 1), "No more rooms to report.");
+	}
+
 	@Test
 	public void testEmptyRoomReport() {
 		try {
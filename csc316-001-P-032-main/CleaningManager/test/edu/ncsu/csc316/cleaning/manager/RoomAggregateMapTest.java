@@ -0,0 +1,73 @@
+package edu.ncsu.csc316.cleaning.manager;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class RoomAggregateMapTest {
+
+	private RoomAggregateMap agg;
+
+	/**
+	 * Create a new, small instance of RoomAggregateMap.
+	 */
+	@Before
+	public void setUp() {
+		agg = new RoomAggregateMap(2);
+	}
+
+	/**
+	 * Tests the put and getter functionality.
+	 */
+	@Test
+	public void testPut() {
+		assertEquals(agg.indexOf("Office"), RoomAggregateMap.NOT_FOUND);
+
+		agg.put("Office", 2, 100L, 216, 0, 2);
+		agg.put("Kitchen", 0, Long.MIN_VALUE, 0, 2, 2);
+
+		int slot = agg.indexOf("Office");
+		assertEquals(agg.getCount(slot), 2);
+		assertEquals(agg.getLatest(slot), 100L);
+		assertEquals(agg.getTotalArea(slot), 216);
+		assertEquals(agg.getEventStart(slot), 0);
+		assertEquals(agg.getEventEnd(slot), 2);
+
+		slot = agg.indexOf("Kitchen");
+		assertEquals(agg.getCount(slot), 0);
+		assertEquals(agg.getEventStart(slot), 2);
+		assertEquals(agg.getEventEnd(slot), 2);
+
+		// Putting a room again replaces its summary in the same slot
+		int officeSlot = agg.indexOf("Office");
+		agg.put("Office", 0, Long.MIN_VALUE, 0, 2, 2);
+		assertEquals(agg.indexOf("Office"), officeSlot);
+		slot = officeSlot;
+		assertEquals(agg.getCount(slot), 0);
+		assertEquals(agg.getLatest(slot), Long.MIN_VALUE);
+		assertEquals(agg.getTotalArea(slot), 0);
+		assertEquals(agg.getEventStart(slot), 2);
+		assertEquals(agg.getEventEnd(slot), 2);
+	}
+
+	/**
+	 * Tests that rooms are kept when the table grows past its expected size.
+	 */
+	@Test
+	public void testResize() {
+		for (int i = 0; i < 1000; i++) {
+			agg.put("Room " + i, i, i * 10L, i * 100, i, i + 1);
+		}
+		for (int i = 0; i < 1000; i++) {
+			int slot = agg.indexOf("Room " + i);
+			assertEquals(agg.getCount(slot), i);
+			assertEquals(agg.getLatest(slot), i * 10L);
+			assertEquals(agg.getTotalArea(slot), i * 100);
+			assertEquals(agg.getEventStart(slot), i);
+			assertEquals(agg.getEventEnd(slot), i + 1);
+		}
+		assertEquals(agg.indexOf("Room 1000"), RoomAggregateMap.NOT_FOUND);
+	}
+
+}